@@ -0,0 +1,20 @@
+package com.todo.backend.v1.config;
+
+import com.todo.backend.v1.profiling.TaskRequestInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+    private final TaskRequestInterceptor taskRequestInterceptor;
+
+    public WebConfig(TaskRequestInterceptor taskRequestInterceptor) {
+        this.taskRequestInterceptor = taskRequestInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(taskRequestInterceptor).addPathPatterns("/v1/tasks/**");
+    }
+}
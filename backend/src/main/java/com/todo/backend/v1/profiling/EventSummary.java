@@ -0,0 +1,17 @@
+package com.todo.backend.v1.profiling;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventSummary {
+    private String name;
+    private long count;
+    private long failures;
+    private double totalMillis;
+    private double maxMillis;
+    private double avgMillis;
+}
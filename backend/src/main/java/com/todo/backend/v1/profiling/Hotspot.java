@@ -0,0 +1,18 @@
+package com.todo.backend.v1.profiling;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class Hotspot {
+    private String frame;
+    private long samples;
+    private long weight;
+    private String unit;
+    private Map<String, Long> endpoints;
+}
@@ -0,0 +1,220 @@
+package com.todo.backend.v1.profiling;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Manages Java Flight Recorder recordings: a bounded on-demand session and an optional low-overhead
+ * continuous recording that keeps a rolling window which can be dumped after an incident.
+ * Only the newest {@code profiling.retained-recordings} files are kept in the dump directory.
+ */
+@Slf4j
+@Service
+public class JfrProfilingService {
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmssSSS").withZone(ZoneOffset.UTC);
+
+    private final Path dumpDirectory;
+    private final String sessionSettings;
+    private final Duration sessionMaxDuration;
+    private final DataSize maxSize;
+    private final boolean continuousEnabled;
+    private final Duration continuousMaxAge;
+    private final int retainedRecordings;
+    private final JfrReportAnalyzer analyzer;
+    // Serializes dump, analysis and pruning so a recording is never pruned while it is being analyzed.
+    // The service lock is only held to read or swap recording references, never while writing or reading
+    // a recording file, so status() and lastReport() stay responsive.
+    private final Object analysisLock = new Object();
+
+    private Recording session;
+    private Recording continuous;
+    private ProfilingReport lastReport;
+
+    public JfrProfilingService(@Value("${profiling.dump-directory:${java.io.tmpdir}}") String dumpDirectory,
+                               @Value("${profiling.session.settings:profile}") String sessionSettings,
+                               @Value("${profiling.session.max-duration:5m}") Duration sessionMaxDuration,
+                               @Value("${profiling.max-size:100MB}") DataSize maxSize,
+                               @Value("${profiling.continuous.enabled:false}") boolean continuousEnabled,
+                               @Value("${profiling.continuous.max-age:10m}") Duration continuousMaxAge,
+                               @Value("${profiling.retained-recordings:5}") int retainedRecordings,
+                               @Value("${profiling.report.top:20}") int reportTop) {
+        if (retainedRecordings < 1) {
+            throw new IllegalArgumentException("At least one profiling recording must be retained");
+        }
+        this.dumpDirectory = Paths.get(dumpDirectory);
+        this.sessionSettings = sessionSettings;
+        this.sessionMaxDuration = sessionMaxDuration;
+        this.maxSize = maxSize;
+        this.continuousEnabled = continuousEnabled;
+        this.continuousMaxAge = continuousMaxAge;
+        this.retainedRecordings = retainedRecordings;
+        this.analyzer = new JfrReportAnalyzer(reportTop);
+    }
+
+    @PostConstruct
+    public synchronized void startContinuous() throws IOException, ParseException {
+        if (!continuousEnabled) {
+            return;
+        }
+        continuous = newRecording("todo-continuous", "default");
+        continuous.setMaxAge(continuousMaxAge);
+        continuous.start();
+        log.info("Continuous JFR recording started with a rolling window of {}", continuousMaxAge);
+    }
+
+    public synchronized ProfilingStatus status() {
+        return new ProfilingStatus(
+                session != null ? session.getState().name() : RecordingState.CLOSED.name(),
+                session != null ? session.getStartTime() : null,
+                session != null ? session.getDuration() : null,
+                continuous != null,
+                continuous != null ? continuousMaxAge : null,
+                lastReport != null ? lastReport.getEndTime() : null);
+    }
+
+    public synchronized ProfilingStatus startSession(Duration duration) throws IOException, ParseException {
+        if (duration != null && (duration.isNegative() || duration.isZero())) {
+            throw new IllegalArgumentException("Duration must be positive");
+        }
+        if (session != null && session.getState() == RecordingState.RUNNING) {
+            throw new IllegalStateException("A profiling session is already running");
+        }
+        closeSession();
+
+        Duration bounded = duration == null || duration.compareTo(sessionMaxDuration) > 0 ? sessionMaxDuration : duration;
+        session = newRecording("todo-session", sessionSettings);
+        session.setDuration(bounded);
+        session.start();
+        log.info("JFR profiling session started for {}", bounded);
+        return status();
+    }
+
+    public ProfilingReport stopSession() throws IOException {
+        synchronized (analysisLock) {
+            Recording stopped;
+            synchronized (this) {
+                if (session == null) {
+                    throw new IllegalStateException("No profiling session to stop");
+                }
+                stopped = session;
+                session = null;
+            }
+            Path file = newDumpFile("session");
+            try {
+                if (stopped.getState() == RecordingState.RUNNING) {
+                    try {
+                        stopped.stop();
+                    } catch (IllegalStateException e) {
+                        // The session reached its duration and stopped on its own in the meantime.
+                    }
+                }
+                // Dumped explicitly rather than through a destination: when a recording expires on its own,
+                // its destination file is written asynchronously after the state has already become STOPPED.
+                stopped.dump(file);
+            } finally {
+                stopped.close();
+            }
+            log.info("JFR profiling session stopped, recording kept at {}", file);
+            return analyze(file);
+        }
+    }
+
+    public ProfilingReport dumpContinuous() throws IOException {
+        synchronized (analysisLock) {
+            Recording recording;
+            synchronized (this) {
+                if (continuous == null) {
+                    throw new IllegalStateException("Continuous profiling is not enabled");
+                }
+                recording = continuous;
+            }
+            Path file = newDumpFile("continuous");
+            recording.dump(file);
+            log.info("Continuous JFR recording dumped to {}", file);
+            return analyze(file);
+        }
+    }
+
+    public synchronized ProfilingReport lastReport() {
+        return lastReport;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        closeSession();
+        if (continuous != null) {
+            continuous.close();
+            continuous = null;
+        }
+    }
+
+    private Recording newRecording(String name, String settings) throws IOException, ParseException {
+        Recording recording = new Recording(Configuration.getConfiguration(settings));
+        recording.setName(name);
+        recording.setToDisk(true);
+        recording.setMaxSize(maxSize.toBytes());
+        recording.enable(TaskRequestEvent.class);
+        recording.enable(TaskServiceEvent.class);
+        return recording;
+    }
+
+    private ProfilingReport analyze(Path file) throws IOException {
+        ProfilingReport report = analyzer.analyze(file);
+        synchronized (this) {
+            lastReport = report;
+        }
+        pruneRecordings();
+        return report;
+    }
+
+    private void pruneRecordings() throws IOException {
+        List<Path> recordings = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dumpDirectory, "todo-*.jfr")) {
+            files.forEach(recordings::add);
+        }
+        if (recordings.size() <= retainedRecordings) {
+            return;
+        }
+        // File names carry a UTC timestamp, so name order is age order within a kind; sort on it to stay
+        // independent of file system timestamp resolution.
+        recordings.sort(Comparator.comparing((Path path) -> path.getFileName().toString().replaceFirst("^todo-[a-z]+-", "")));
+        for (Path recording : recordings.subList(0, recordings.size() - retainedRecordings)) {
+            Files.deleteIfExists(recording);
+            log.info("Deleted old JFR recording {}", recording);
+        }
+    }
+
+    private Path newDumpFile(String kind) throws IOException {
+        Files.createDirectories(dumpDirectory);
+        return dumpDirectory.resolve("todo-" + kind + "-" + FILE_TIMESTAMP.format(Instant.now()) + ".jfr");
+    }
+
+    private void closeSession() {
+        if (session != null) {
+            session.close();
+            session = null;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.todo.backend.v1.profiling;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Summarizes a JFR recording into the top hot methods, allocation sites and lock contention sites.
+ * Samples are attributed to a TaskController endpoint when they were taken on a thread that was
+ * inside a {@link TaskRequestEvent} at that moment.
+ */
+public class JfrReportAnalyzer {
+    static final String UNATTRIBUTED = "(unattributed)";
+
+    // Frames of the JDK's park/lock/queue machinery (SynchronousQueue, CountDownLatch, FutureTask, ...);
+    // the interesting site is the first caller below them.
+    private static final List<String> LOCK_FRAME_PREFIXES = List.of(
+            "jdk.internal.",
+            "java.util.concurrent.");
+
+    private final int topN;
+
+    public JfrReportAnalyzer(int topN) {
+        this.topN = topN;
+    }
+
+    public ProfilingReport analyze(Path recordingFile) throws IOException {
+        Map<Long, RequestWindows> requestsByThread = new HashMap<>();
+        Map<String, String> endpointNames = new HashMap<>();
+        Map<String, Stats> endpoints = new HashMap<>();
+        Map<String, Stats> serviceCalls = new HashMap<>();
+        Instant startTime = null;
+        Instant endTime = null;
+
+        // First pass: request windows per thread, so the second pass can attribute samples to them.
+        try (RecordingFile file = new RecordingFile(recordingFile)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                if (startTime == null || event.getStartTime().isBefore(startTime)) {
+                    startTime = event.getStartTime();
+                }
+                if (endTime == null || event.getEndTime().isAfter(endTime)) {
+                    endTime = event.getEndTime();
+                }
+                switch (event.getEventType().getName()) {
+                    case TaskRequestEvent.NAME -> {
+                        String endpoint = endpointNames.computeIfAbsent(event.getString("endpoint"), k -> k);
+                        endpoints.computeIfAbsent(endpoint, k -> new Stats())
+                                .add(event.getDuration().toNanos(), event.getInt("status") >= 400);
+                        RecordedThread thread = event.getThread();
+                        if (thread != null) {
+                            requestsByThread.computeIfAbsent(thread.getJavaThreadId(), k -> new RequestWindows())
+                                    .add(toNanos(event.getStartTime()), toNanos(event.getEndTime()), endpoint);
+                        }
+                    }
+                    case TaskServiceEvent.NAME -> serviceCalls.computeIfAbsent(event.getString("operation"), k -> new Stats())
+                            .add(event.getDuration().toNanos(), event.getBoolean("failed"));
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        requestsByThread.values().forEach(RequestWindows::sort);
+
+        Map<String, Site> hotMethods = new HashMap<>();
+        Map<String, Site> allocationSites = new HashMap<>();
+        Map<String, Site> lockContention = new HashMap<>();
+        try (RecordingFile file = new RecordingFile(recordingFile)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                switch (event.getEventType().getName()) {
+                    case "jdk.ExecutionSample" -> record(hotMethods, topFrame(event), 1,
+                            endpointAt(requestsByThread, event.getThread("sampledThread"), event.getStartTime()));
+                    case "jdk.ObjectAllocationSample" -> record(allocationSites, topFrame(event), event.getLong("weight"),
+                            endpointAt(requestsByThread, event.getThread(), event.getStartTime()));
+                    case "jdk.JavaMonitorEnter" -> record(lockContention, lockSite(event, "monitorClass"),
+                            event.getDuration().toNanos(), endpointAt(requestsByThread, event.getThread(), event.getStartTime()));
+                    case "jdk.ThreadPark" -> {
+                        // Idle pool threads park in their work queues for as long as there is no traffic;
+                        // only parks on a thread that is serving a request are contention.
+                        String endpoint = endpointAt(requestsByThread, event.getThread(), event.getStartTime());
+                        if (!UNATTRIBUTED.equals(endpoint)) {
+                            record(lockContention, lockSite(event, "parkedClass"), event.getDuration().toNanos(), endpoint);
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        return new ProfilingReport(recordingFile.toString(), startTime, endTime,
+                toSummaries(endpoints), toSummaries(serviceCalls),
+                toHotspots(hotMethods, "samples"), toHotspots(allocationSites, "bytes"),
+                toHotspots(lockContention, "nanoseconds"));
+    }
+
+    private static String endpointAt(Map<Long, RequestWindows> requestsByThread, RecordedThread thread, Instant time) {
+        if (thread == null) {
+            return UNATTRIBUTED;
+        }
+        RequestWindows requests = requestsByThread.get(thread.getJavaThreadId());
+        return requests == null ? UNATTRIBUTED : requests.endpointAt(toNanos(time));
+    }
+
+    private static long toNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    private static String topFrame(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "(no stack trace)";
+        }
+        return format(stackTrace.getFrames().get(0));
+    }
+
+    private static String lockSite(RecordedEvent event, String classField) {
+        String site = callerFrame(event);
+        RecordedClass lockClass = event.hasField(classField) ? event.getClass(classField) : null;
+        return lockClass == null ? site : site + " on " + lockClass.getName();
+    }
+
+    private static String callerFrame(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "(no stack trace)";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (LOCK_FRAME_PREFIXES.stream().noneMatch(type::startsWith)) {
+                return format(frame);
+            }
+        }
+        return format(stackTrace.getFrames().get(0));
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static void record(Map<String, Site> sites, String frame, long weight, String endpoint) {
+        Site site = sites.computeIfAbsent(frame, k -> new Site());
+        site.samples++;
+        site.weight += weight;
+        site.endpoints.merge(endpoint, 1L, Long::sum);
+    }
+
+    private List<Hotspot> toHotspots(Map<String, Site> sites, String unit) {
+        return sites.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Site> e) -> e.getValue().weight).reversed())
+                .limit(topN)
+                .map(e -> new Hotspot(e.getKey(), e.getValue().samples, e.getValue().weight, unit,
+                        sortByValue(e.getValue().endpoints)))
+                .collect(Collectors.toList());
+    }
+
+    private static List<EventSummary> toSummaries(Map<String, Stats> stats) {
+        return stats.entrySet().stream()
+                .map(e -> e.getValue().toSummary(e.getKey()))
+                .sorted(Comparator.comparingDouble(EventSummary::getTotalMillis).reversed())
+                .collect(Collectors.toList());
+    }
+
+    private static Map<String, Long> sortByValue(Map<String, Long> counts) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    private static final class Site {
+        private long samples;
+        private long weight;
+        private final Map<String, Long> endpoints = new HashMap<>();
+    }
+
+    /**
+     * The requests served by one thread, kept as parallel primitive arrays rather than recorded events: a
+     * continuous window can hold millions of requests and is analyzed on the application's own heap.
+     */
+    private static final class RequestWindows {
+        private long[] starts = new long[16];
+        private long[] ends = new long[16];
+        private String[] endpoints = new String[16];
+        private int size;
+
+        private void add(long start, long end, String endpoint) {
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+                endpoints = Arrays.copyOf(endpoints, size * 2);
+            }
+            starts[size] = start;
+            ends[size] = end;
+            endpoints[size] = endpoint;
+            size++;
+        }
+
+        // Requests on one thread never overlap and are read almost in order, so insertion sort is near-linear.
+        private void sort() {
+            for (int i = 1; i < size; i++) {
+                long start = starts[i];
+                long end = ends[i];
+                String endpoint = endpoints[i];
+                int j = i - 1;
+                while (j >= 0 && starts[j] > start) {
+                    starts[j + 1] = starts[j];
+                    ends[j + 1] = ends[j];
+                    endpoints[j + 1] = endpoints[j];
+                    j--;
+                }
+                starts[j + 1] = start;
+                ends[j + 1] = end;
+                endpoints[j + 1] = endpoint;
+            }
+        }
+
+        private String endpointAt(long time) {
+            int index = Arrays.binarySearch(starts, 0, size, time);
+            // Not found: the insertion point is one past the last request that started before the time.
+            int floor = index >= 0 ? index : -index - 2;
+            if (floor < 0 || ends[floor] < time) {
+                return UNATTRIBUTED;
+            }
+            return endpoints[floor];
+        }
+    }
+
+    private static final class Stats {
+        private long count;
+        private long failures;
+        private long totalNanos;
+        private long maxNanos;
+
+        private void add(long nanos, boolean failed) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            if (failed) {
+                failures++;
+            }
+        }
+
+        private EventSummary toSummary(String name) {
+            return new EventSummary(name, count, failures, totalNanos / 1_000_000.0, maxNanos / 1_000_000.0,
+                    count == 0 ? 0 : totalNanos / 1_000_000.0 / count);
+        }
+    }
+}
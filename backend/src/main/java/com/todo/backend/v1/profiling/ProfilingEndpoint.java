@@ -0,0 +1,77 @@
+package com.todo.backend.v1.profiling;
+
+import com.todo.backend.v1.dto.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Actuator endpoint for on-demand profiling:
+ * <ul>
+ *     <li>{@code GET /actuator/profiling} - current recording state</li>
+ *     <li>{@code GET /actuator/profiling/report} - the last generated report</li>
+ *     <li>{@code POST /actuator/profiling/start} - start a bounded session, optional {@code duration} (e.g. "60s")</li>
+ *     <li>{@code POST /actuator/profiling/stop} - stop the session and return its report</li>
+ *     <li>{@code POST /actuator/profiling/dump} - dump the continuous rolling window and return its report</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@WebEndpoint(id = "profiling")
+public class ProfilingEndpoint {
+    private final JfrProfilingService profilingService;
+
+    public ProfilingEndpoint(JfrProfilingService profilingService) {
+        this.profilingService = profilingService;
+    }
+
+    @ReadOperation
+    public Response status() {
+        return new Response(0, "Profiling status retrieved successfully", profilingService.status(), null);
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<Response> report(@Selector String name) {
+        if (!"report".equals(name)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        ProfilingReport report = profilingService.lastReport();
+        if (report == null) {
+            return new WebEndpointResponse<>(new Response(1, "No profiling report available", null, null),
+                    WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(new Response(0, "Profiling report retrieved successfully", report, null));
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Response> control(@Selector String action, @Nullable Duration duration) {
+        try {
+            return switch (action) {
+                case "start" -> new WebEndpointResponse<>(new Response(0, "Profiling session started",
+                        profilingService.startSession(duration), null));
+                case "stop" -> new WebEndpointResponse<>(new Response(0, "Profiling session stopped",
+                        profilingService.stopSession(), null));
+                case "dump" -> new WebEndpointResponse<>(new Response(0, "Continuous recording dumped",
+                        profilingService.dumpContinuous(), null));
+                default -> new WebEndpointResponse<>(new Response(1, "Unknown profiling action: " + action, null, null),
+                        WebEndpointResponse.STATUS_BAD_REQUEST);
+            };
+        } catch (IllegalArgumentException e) {
+            return new WebEndpointResponse<>(new Response(1, e.getMessage(), null, null),
+                    WebEndpointResponse.STATUS_BAD_REQUEST);
+        } catch (IllegalStateException e) {
+            return new WebEndpointResponse<>(new Response(1, e.getMessage(), null, null), 409);
+        } catch (Exception e) {
+            log.error("Error running profiling action {}: {}", action, e.getMessage());
+            return new WebEndpointResponse<>(new Response(1, e.getMessage(), null, null),
+                    WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+    }
+}
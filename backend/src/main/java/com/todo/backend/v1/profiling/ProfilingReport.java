@@ -0,0 +1,22 @@
+package com.todo.backend.v1.profiling;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProfilingReport {
+    private String recordingFile;
+    private Instant startTime;
+    private Instant endTime;
+    private List<EventSummary> endpoints;
+    private List<EventSummary> serviceCalls;
+    private List<Hotspot> hotMethods;
+    private List<Hotspot> allocationSites;
+    private List<Hotspot> lockContention;
+}
@@ -0,0 +1,20 @@
+package com.todo.backend.v1.profiling;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProfilingStatus {
+    private String sessionState;
+    private Instant sessionStartTime;
+    private Duration sessionDuration;
+    private boolean continuousEnabled;
+    private Duration continuousMaxAge;
+    private Instant lastReportTime;
+}
@@ -0,0 +1,35 @@
+package com.todo.backend.v1.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(TaskRequestEvent.NAME)
+@Label("Task Request")
+@Category({"Todo", "HTTP"})
+@Description("A request handled by TaskController")
+@StackTrace(false)
+public class TaskRequestEvent extends Event {
+    public static final String NAME = "com.todo.TaskRequest";
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Handler")
+    String handler;
+
+    @Label("Status")
+    int status;
+
+    public TaskRequestEvent(String endpoint, String handler) {
+        this.endpoint = endpoint;
+        this.handler = handler;
+    }
+
+    public void completed(int status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,41 @@
+package com.todo.backend.v1.profiling;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Emits a {@link TaskRequestEvent} around each handled request so that samples taken on the
+ * request thread can be attributed to the endpoint that was serving it.
+ */
+@Component
+public class TaskRequestInterceptor implements HandlerInterceptor {
+    private static final String EVENT_ATTRIBUTE = TaskRequestInterceptor.class.getName() + ".event";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            TaskRequestEvent event = new TaskRequestEvent(
+                    request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI()),
+                    handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName());
+            event.begin();
+            request.setAttribute(EVENT_ATTRIBUTE, event);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(EVENT_ATTRIBUTE) instanceof TaskRequestEvent event) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.completed(response.getStatus());
+                event.commit();
+            }
+        }
+    }
+}
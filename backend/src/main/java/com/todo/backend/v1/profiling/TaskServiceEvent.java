@@ -0,0 +1,31 @@
+package com.todo.backend.v1.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(TaskServiceEvent.NAME)
+@Label("Task Service Call")
+@Category({"Todo", "Service"})
+@Description("A call into TaskService")
+@StackTrace(false)
+public class TaskServiceEvent extends Event {
+    public static final String NAME = "com.todo.TaskServiceCall";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Failed")
+    boolean failed;
+
+    public TaskServiceEvent(String operation) {
+        this.operation = operation;
+    }
+
+    public void failed() {
+        this.failed = true;
+    }
+}
@@ -0,0 +1,40 @@
+package com.todo.backend.v1.profiling;
+
+import com.todo.backend.v1.service.TaskService;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps {@link TaskService} so every public call is emitted as a {@link TaskServiceEvent}.
+ * The event is only written when a recording has it enabled, so the cost is negligible otherwise.
+ */
+@Component
+public class TaskServiceProfiler implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof TaskService)) {
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            if (invocation.getMethod().getDeclaringClass() != TaskService.class) {
+                return invocation.proceed();
+            }
+            TaskServiceEvent event = new TaskServiceEvent(invocation.getMethod().getName());
+            event.begin();
+            try {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                event.failed();
+                throw e;
+            } finally {
+                event.commit();
+            }
+        });
+        return proxyFactory.getProxy();
+    }
+}
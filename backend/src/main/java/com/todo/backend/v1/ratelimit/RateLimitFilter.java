@@ -0,0 +1,103 @@
+package com.todo.backend.v1.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todo.backend.v1.dto.Response;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Admission control for the task API. Each client gets separate read and write budgets; requests over budget
+ * are rejected with 429 before they reach the controller and the database pool.
+ * <p>
+ * Clients are identified by their remote address. A key sent in the API key header is only used as the
+ * identity when it is one of the configured {@code rate-limit.api-keys}; anything else is ignored, otherwise
+ * a client could get a fresh bucket on every request by sending a new key. Behind a reverse proxy the remote
+ * address is the proxy's unless {@code server.forward-headers-strategy} is set so the real client address is
+ * resolved from the forwarded headers.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String EXPOSED_HEADERS =
+            "X-RateLimit-Limit, X-RateLimit-Remaining, X-RateLimit-Reset, " + HttpHeaders.RETRY_AFTER;
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String apiKeyHeader;
+    private final Map<String, String> clientIdsByApiKey;
+
+    public RateLimitFilter(RateLimiter rateLimiter,
+                           ObjectMapper objectMapper,
+                           @Value("${rate-limit.enabled:true}") boolean enabled,
+                           @Value("${rate-limit.api-key-header:X-API-Key}") String apiKeyHeader,
+                           @Value("${rate-limit.api-keys:}") Set<String> apiKeys) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.apiKeyHeader = apiKeyHeader;
+        // Never keep the raw key as the identity: it ends up as a map key and a metrics tag.
+        this.clientIdsByApiKey = apiKeys.stream()
+                .filter(apiKey -> !apiKey.isBlank())
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), apiKey ->
+                        "key:" + DigestUtils.md5DigestAsHex(apiKey.getBytes(StandardCharsets.UTF_8)).substring(0, 12)));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || HttpMethod.OPTIONS.matches(request.getMethod())
+                || !request.getServletPath().startsWith("/v1/tasks");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean write = !HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod());
+        TokenBucket.Probe probe = rateLimiter.tryConsume(clientId(request), write);
+
+        // The frontend is cross-origin, so the browser only lets it read these headers when they are exposed.
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, EXPOSED_HEADERS);
+        response.setHeader("X-RateLimit-Limit", String.valueOf(probe.limit()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(probe.remaining()));
+        response.setHeader("X-RateLimit-Reset", String.valueOf(toSeconds(probe.resetNanos())));
+        if (probe.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(toSeconds(probe.retryAfterNanos())));
+        // The controller's @CrossOrigin is never reached, so let browsers read the rejection.
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "*");
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new Response(1, "Too many requests", null, null));
+    }
+
+    private String clientId(HttpServletRequest request) {
+        String apiKey = request.getHeader(apiKeyHeader);
+        String clientId = apiKey != null ? clientIdsByApiKey.get(apiKey) : null;
+        return clientId != null ? clientId : "ip:" + request.getRemoteAddr();
+    }
+
+    private static long toSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,141 @@
+package com.todo.backend.v1.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds one read and one write {@link TokenBucket} per client. Buckets live in {@link ConcurrentHashMap}s,
+ * which only lock a single bin on insert, and the buckets themselves are lock-free, so the hot path never
+ * takes a shared lock.
+ * <p>
+ * At most {@code rate-limit.max-buckets} clients get their own bucket per budget. New clients beyond that,
+ * e.g. one rotating through source addresses, share a single overflow bucket until idle buckets are evicted.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+    private static final String OVERFLOW_CLIENT = "overflow";
+
+    private final long idleNanos;
+    private final int maxBuckets;
+    private final MeterRegistry meterRegistry;
+    private final Budget reads;
+    private final Budget writes;
+
+    public RateLimiter(@Value("${rate-limit.read.capacity:100}") long readCapacity,
+                       @Value("${rate-limit.read.period:1m}") Duration readPeriod,
+                       @Value("${rate-limit.write.capacity:30}") long writeCapacity,
+                       @Value("${rate-limit.write.period:1m}") Duration writePeriod,
+                       @Value("${rate-limit.idle-timeout:10m}") Duration idleTimeout,
+                       @Value("${rate-limit.max-buckets:10000}") int maxBuckets,
+                       MeterRegistry meterRegistry) {
+        if (maxBuckets <= 0) {
+            throw new IllegalArgumentException("Rate limit max buckets must be positive");
+        }
+        this.idleNanos = idleTimeout.toNanos();
+        this.maxBuckets = maxBuckets;
+        this.meterRegistry = meterRegistry;
+        this.reads = new Budget("read", readCapacity, readPeriod);
+        this.writes = new Budget("write", writeCapacity, writePeriod);
+    }
+
+    public TokenBucket.Probe tryConsume(String client, boolean write) {
+        Budget budget = write ? writes : reads;
+        long now = System.nanoTime();
+        String key = client;
+        TokenBucket bucket = budget.buckets.get(key);
+        if (bucket == null) {
+            // The size check races with concurrent inserts, so the cap can be overshot by a few buckets.
+            if (budget.buckets.size() >= maxBuckets) {
+                key = OVERFLOW_CLIENT;
+            }
+            bucket = budget.buckets.computeIfAbsent(key, k -> new TokenBucket(budget.capacity, budget.nanosPerToken, now));
+        }
+        TokenBucket.Probe probe = bucket.tryConsume(now);
+
+        if (probe.allowed()) {
+            budget.allowed.increment();
+        } else {
+            budget.rejected.increment();
+            // Tagged per client so the offenders are visible. A series only exists while the client's bucket
+            // does, and is removed together with it when the bucket is evicted, so the cap bounds both.
+            budget.throttled.computeIfAbsent(key, budget::throttledCounter).increment();
+        }
+        return probe;
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval:PT1M}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        int evicted = reads.evictIdle(now) + writes.evictIdle(now);
+        log.debug("Evicted {} idle rate limit buckets", evicted);
+    }
+
+    private final class Budget {
+        private final String type;
+        private final long capacity;
+        private final long nanosPerToken;
+        private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, Counter> throttled = new ConcurrentHashMap<>();
+        private final Counter allowed;
+        private final Counter rejected;
+
+        private Budget(String type, long capacity, Duration period) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("Rate limit " + type + " capacity must be positive");
+            }
+            this.type = type;
+            this.capacity = capacity;
+            this.nanosPerToken = period.toNanos() / capacity;
+            if (nanosPerToken <= 0) {
+                throw new IllegalArgumentException("Rate limit " + type + " period is too short for its capacity");
+            }
+            this.allowed = requestCounter("allowed");
+            this.rejected = requestCounter("rejected");
+            Gauge.builder("ratelimit.buckets", buckets, Map::size)
+                    .description("Active rate limit buckets")
+                    .tag("type", type)
+                    .register(meterRegistry);
+        }
+
+        private int evictIdle(long now) {
+            int evicted = 0;
+            for (Map.Entry<String, TokenBucket> entry : buckets.entrySet()) {
+                if (entry.getValue().isIdle(now, idleNanos) && buckets.remove(entry.getKey(), entry.getValue())) {
+                    Counter counter = throttled.remove(entry.getKey());
+                    if (counter != null) {
+                        meterRegistry.remove(counter);
+                    }
+                    evicted++;
+                }
+            }
+            return evicted;
+        }
+
+        private Counter requestCounter(String outcome) {
+            return Counter.builder("ratelimit.requests")
+                    .description("Requests checked against the rate limiter")
+                    .tag("type", type)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+
+        private Counter throttledCounter(String client) {
+            return Counter.builder("ratelimit.throttled")
+                    .description("Requests rejected per client")
+                    .tag("type", type)
+                    .tag("client", client)
+                    .register(meterRegistry);
+        }
+    }
+}
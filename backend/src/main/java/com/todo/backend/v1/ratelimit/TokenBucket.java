@@ -0,0 +1,47 @@
+package com.todo.backend.v1.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket. Instead of storing a token count and a refill timestamp, the bucket keeps
+ * the single "theoretical arrival time" of the next request (GCRA), so a take is one CAS on one long
+ * and refill happens implicitly as time passes.
+ */
+public class TokenBucket {
+    private final long capacity;
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(long capacity, long nanosPerToken, long now) {
+        this.capacity = capacity;
+        this.nanosPerToken = nanosPerToken;
+        this.burstNanos = capacity * nanosPerToken;
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    public Probe tryConsume(long now) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long next = Math.max(arrival, now) + nanosPerToken;
+            long backlog = next - now;
+            if (backlog > burstNanos) {
+                return new Probe(false, capacity, 0, backlog - burstNanos, arrival - now);
+            }
+            if (theoreticalArrival.compareAndSet(arrival, next)) {
+                return new Probe(true, capacity, (burstNanos - backlog) / nanosPerToken, 0, backlog);
+            }
+        }
+    }
+
+    /**
+     * A bucket that has refilled completely and stayed untouched for {@code idleNanos} carries no state
+     * worth keeping, so it can be dropped and recreated on the next request.
+     */
+    public boolean isIdle(long now, long idleNanos) {
+        return now - theoreticalArrival.get() > idleNanos;
+    }
+
+    public record Probe(boolean allowed, long limit, long remaining, long retryAfterNanos, long resetNanos) {
+    }
+}
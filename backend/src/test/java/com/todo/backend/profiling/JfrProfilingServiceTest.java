@@ -0,0 +1,130 @@
+package com.todo.backend.profiling;
+
+import com.todo.backend.v1.profiling.JfrProfilingService;
+import com.todo.backend.v1.profiling.ProfilingReport;
+import com.todo.backend.v1.profiling.ProfilingStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrProfilingServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private JfrProfilingService profilingService;
+
+    @AfterEach
+    void tearDown() {
+        if (profilingService != null) {
+            profilingService.shutdown();
+        }
+    }
+
+    @Test
+    void startSession_WhenAlreadyRunning_ShouldThrowIllegalStateException() throws Exception {
+        profilingService = createService(Duration.ofMinutes(1), false, 5);
+        profilingService.startSession(null);
+
+        IllegalStateException exception = assertThrows(
+                IllegalStateException.class,
+                () -> profilingService.startSession(Duration.ofSeconds(30))
+        );
+
+        assertEquals("A profiling session is already running", exception.getMessage());
+    }
+
+    @Test
+    void startSession_WithDurationAboveMax_ShouldCapAtMaxDuration() throws Exception {
+        profilingService = createService(Duration.ofMinutes(1), false, 5);
+
+        ProfilingStatus status = profilingService.startSession(Duration.ofHours(1));
+
+        assertEquals("RUNNING", status.getSessionState());
+        assertEquals(Duration.ofMinutes(1), status.getSessionDuration());
+    }
+
+    @Test
+    void startSession_WithoutDuration_ShouldUseMaxDuration() throws Exception {
+        profilingService = createService(Duration.ofMinutes(1), false, 5);
+
+        ProfilingStatus status = profilingService.startSession(null);
+
+        assertEquals(Duration.ofMinutes(1), status.getSessionDuration());
+    }
+
+    @Test
+    void startSession_WithNonPositiveDuration_ShouldThrowIllegalArgumentException() {
+        profilingService = createService(Duration.ofMinutes(1), false, 5);
+
+        assertThrows(IllegalArgumentException.class, () -> profilingService.startSession(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> profilingService.startSession(Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    void stopSession_AfterSessionExpired_ShouldStillReturnReport() throws Exception {
+        profilingService = createService(Duration.ofMillis(200), false, 5);
+        profilingService.startSession(null);
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!"STOPPED".equals(profilingService.status().getSessionState())) {
+            assertTrue(System.currentTimeMillis() < deadline, "Session did not expire");
+            Thread.sleep(20);
+        }
+
+        ProfilingReport report = profilingService.stopSession();
+
+        assertNotNull(report);
+        assertNotNull(report.getStartTime());
+        assertTrue(Files.size(Path.of(report.getRecordingFile())) > 0);
+        assertEquals("CLOSED", profilingService.status().getSessionState());
+        assertSame(report, profilingService.lastReport());
+    }
+
+    @Test
+    void stopSession_WithoutSession_ShouldThrowIllegalStateException() {
+        profilingService = createService(Duration.ofMinutes(1), false, 5);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> profilingService.stopSession());
+
+        assertEquals("No profiling session to stop", exception.getMessage());
+    }
+
+    @Test
+    void dumpContinuous_WhenDisabled_ShouldThrowIllegalStateException() throws Exception {
+        profilingService = createService(Duration.ofMinutes(1), false, 5);
+        profilingService.startContinuous();
+
+        assertThrows(IllegalStateException.class, () -> profilingService.dumpContinuous());
+        assertFalse(profilingService.status().isContinuousEnabled());
+    }
+
+    @Test
+    void dumpContinuous_ShouldKeepOnlyRetainedRecordings() throws Exception {
+        profilingService = createService(Duration.ofMinutes(1), true, 2);
+        profilingService.startContinuous();
+
+        profilingService.dumpContinuous();
+        profilingService.dumpContinuous();
+        ProfilingReport latest = profilingService.dumpContinuous();
+
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(2, files.count());
+        }
+        assertTrue(Files.exists(Path.of(latest.getRecordingFile())));
+        assertSame(latest, profilingService.lastReport());
+    }
+
+    private JfrProfilingService createService(Duration maxDuration, boolean continuous, int retained) {
+        return new JfrProfilingService(tempDir.toString(), "default", maxDuration, DataSize.ofMegabytes(10),
+                continuous, Duration.ofMinutes(1), retained, 10);
+    }
+}
@@ -0,0 +1,182 @@
+package com.todo.backend.profiling;
+
+import com.todo.backend.v1.profiling.EventSummary;
+import com.todo.backend.v1.profiling.Hotspot;
+import com.todo.backend.v1.profiling.JfrReportAnalyzer;
+import com.todo.backend.v1.profiling.ProfilingReport;
+import com.todo.backend.v1.profiling.TaskRequestEvent;
+import com.todo.backend.v1.profiling.TaskServiceEvent;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrReportAnalyzerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void analyze_WithRequestAndServiceEvents_ShouldSummarizeAndAttributeSamples() throws Exception {
+        Path file = tempDir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TaskRequestEvent.class);
+            recording.enable(TaskServiceEvent.class);
+            recording.enable("jdk.ObjectAllocationSample").with("throttle", "off");
+            recording.start();
+
+            TaskRequestEvent request = new TaskRequestEvent("GET /v1/tasks", "TaskController.getTasks");
+            request.begin();
+            TaskServiceEvent serviceCall = new TaskServiceEvent("getTasks");
+            serviceCall.begin();
+            allocate();
+            serviceCall.commit();
+            request.completed(200);
+            request.commit();
+
+            TaskRequestEvent failedRequest = new TaskRequestEvent("POST /v1/tasks", "TaskController.createTask");
+            failedRequest.begin();
+            failedRequest.completed(400);
+            failedRequest.commit();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        ProfilingReport report = new JfrReportAnalyzer(5).analyze(file);
+
+        assertEquals(file.toString(), report.getRecordingFile());
+        assertNotNull(report.getStartTime());
+        assertNotNull(report.getEndTime());
+
+        EventSummary getTasks = findSummary(report.getEndpoints(), "GET /v1/tasks");
+        assertEquals(1, getTasks.getCount());
+        assertEquals(0, getTasks.getFailures());
+        EventSummary createTask = findSummary(report.getEndpoints(), "POST /v1/tasks");
+        assertEquals(1, createTask.getCount());
+        assertEquals(1, createTask.getFailures());
+
+        EventSummary serviceSummary = findSummary(report.getServiceCalls(), "getTasks");
+        assertEquals(1, serviceSummary.getCount());
+        assertTrue(serviceSummary.getMaxMillis() >= serviceSummary.getAvgMillis());
+
+        assertFalse(report.getAllocationSites().isEmpty());
+        assertTrue(report.getAllocationSites().size() <= 5);
+        assertTrue(report.getAllocationSites().stream().allMatch(hotspot -> "bytes".equals(hotspot.getUnit())));
+        assertTrue(report.getAllocationSites().stream()
+                .map(Hotspot::getEndpoints)
+                .anyMatch(endpoints -> endpoints.containsKey("GET /v1/tasks")));
+    }
+
+    @Test
+    void analyze_WithExecutionSamples_ShouldAttributeHotMethodsToEndpoint() throws Exception {
+        Path file = tempDir.resolve("cpu.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TaskRequestEvent.class);
+            recording.enable("jdk.ExecutionSample").withPeriod(Duration.ofMillis(1));
+            recording.start();
+
+            TaskRequestEvent request = new TaskRequestEvent("GET /v1/tasks", "TaskController.getTasks");
+            request.begin();
+            spin(TimeUnit.MILLISECONDS.toNanos(500));
+            request.completed(200);
+            request.commit();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        ProfilingReport report = new JfrReportAnalyzer(5).analyze(file);
+
+        assertFalse(report.getHotMethods().isEmpty());
+        assertEquals("samples", report.getHotMethods().get(0).getUnit());
+        assertTrue(report.getHotMethods().stream()
+                .anyMatch(hotspot -> hotspot.getFrame().startsWith(JfrReportAnalyzerTest.class.getName() + ".spin")
+                        && hotspot.getEndpoints().containsKey("GET /v1/tasks")));
+    }
+
+    @Test
+    void analyze_WithThreadParks_ShouldReportCallerFramesOfParksInsideRequestsOnly() throws Exception {
+        Path file = tempDir.resolve("locks.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TaskRequestEvent.class);
+            recording.enable("jdk.ThreadPark").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+
+            TaskRequestEvent request = new TaskRequestEvent("PUT /v1/tasks/{id}", "TaskController.updateTask");
+            request.begin();
+            parkInsideRequest();
+            pollInsideRequest();
+            request.completed(200);
+            request.commit();
+
+            parkOutsideRequest();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        ProfilingReport report = new JfrReportAnalyzer(5).analyze(file);
+
+        List<Hotspot> lockContention = report.getLockContention();
+        assertEquals(2, lockContention.size(), lockContention.toString());
+        for (Hotspot site : lockContention) {
+            assertTrue(site.getFrame().startsWith(JfrReportAnalyzerTest.class.getName() + "."), site.getFrame());
+            assertTrue(site.getEndpoints().get("PUT /v1/tasks/{id}") >= 1);
+            assertTrue(site.getWeight() >= TimeUnit.MILLISECONDS.toNanos(20));
+            assertEquals("nanoseconds", site.getUnit());
+        }
+        assertTrue(lockContention.stream().anyMatch(site -> site.getFrame().contains(".parkInsideRequest:")));
+        assertTrue(lockContention.stream().anyMatch(site -> site.getFrame().contains(".pollInsideRequest:")
+                && site.getFrame().endsWith(" on java.util.concurrent.SynchronousQueue$TransferStack")));
+    }
+
+    private static void parkInsideRequest() {
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    private static void pollInsideRequest() throws InterruptedException {
+        // The same path a request takes when it waits on an exhausted connection pool.
+        assertNull(new SynchronousQueue<>().poll(50, TimeUnit.MILLISECONDS));
+    }
+
+    private static void parkOutsideRequest() {
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    private static long spin(long nanos) {
+        long deadline = System.nanoTime() + nanos;
+        long sum = 0;
+        while (System.nanoTime() < deadline) {
+            for (int i = 0; i < 10_000; i++) {
+                sum += i * 31L;
+            }
+        }
+        return sum;
+    }
+
+    private static List<byte[]> allocate() throws InterruptedException {
+        List<byte[]> chunks = new ArrayList<>();
+        for (int i = 0; i < 256; i++) {
+            chunks.add(new byte[64 * 1024]);
+        }
+        Thread.sleep(20);
+        return chunks;
+    }
+
+    private static EventSummary findSummary(List<EventSummary> summaries, String name) {
+        return summaries.stream()
+                .filter(summary -> summary.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No summary for " + name));
+    }
+}
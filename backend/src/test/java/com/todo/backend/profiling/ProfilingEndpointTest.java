@@ -0,0 +1,132 @@
+package com.todo.backend.profiling;
+
+import com.todo.backend.v1.dto.Response;
+import com.todo.backend.v1.profiling.JfrProfilingService;
+import com.todo.backend.v1.profiling.ProfilingEndpoint;
+import com.todo.backend.v1.profiling.ProfilingReport;
+import com.todo.backend.v1.profiling.ProfilingStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProfilingEndpointTest {
+
+    @Mock
+    private JfrProfilingService profilingService;
+
+    @InjectMocks
+    private ProfilingEndpoint profilingEndpoint;
+
+    @Test
+    void status_ShouldReturnServiceStatus() {
+        ProfilingStatus status = new ProfilingStatus("CLOSED", null, null, true, Duration.ofMinutes(10), null);
+        when(profilingService.status()).thenReturn(status);
+
+        Response response = profilingEndpoint.status();
+
+        assertEquals(0, response.getStatus());
+        assertSame(status, response.getObject());
+    }
+
+    @Test
+    void control_Start_ShouldStartSessionWithDuration() throws Exception {
+        ProfilingStatus status = new ProfilingStatus("RUNNING", null, Duration.ofSeconds(30), false, null, null);
+        when(profilingService.startSession(Duration.ofSeconds(30))).thenReturn(status);
+
+        WebEndpointResponse<Response> response = profilingEndpoint.control("start", Duration.ofSeconds(30));
+
+        assertEquals(WebEndpointResponse.STATUS_OK, response.getStatus());
+        assertEquals("Profiling session started", response.getBody().getMessage());
+        assertSame(status, response.getBody().getObject());
+    }
+
+    @Test
+    void control_StartWhileRunning_ShouldReturnConflict() throws Exception {
+        when(profilingService.startSession(null))
+                .thenThrow(new IllegalStateException("A profiling session is already running"));
+
+        WebEndpointResponse<Response> response = profilingEndpoint.control("start", null);
+
+        assertEquals(409, response.getStatus());
+        assertEquals(1, response.getBody().getStatus());
+        assertEquals("A profiling session is already running", response.getBody().getMessage());
+    }
+
+    @Test
+    void control_StartWithInvalidDuration_ShouldReturnBadRequest() throws Exception {
+        when(profilingService.startSession(Duration.ZERO))
+                .thenThrow(new IllegalArgumentException("Duration must be positive"));
+
+        WebEndpointResponse<Response> response = profilingEndpoint.control("start", Duration.ZERO);
+
+        assertEquals(WebEndpointResponse.STATUS_BAD_REQUEST, response.getStatus());
+    }
+
+    @Test
+    void control_Stop_ShouldReturnReport() throws Exception {
+        ProfilingReport report = new ProfilingReport();
+        when(profilingService.stopSession()).thenReturn(report);
+
+        WebEndpointResponse<Response> response = profilingEndpoint.control("stop", null);
+
+        assertEquals(WebEndpointResponse.STATUS_OK, response.getStatus());
+        assertSame(report, response.getBody().getObject());
+    }
+
+    @Test
+    void control_DumpWhenAnalysisFails_ShouldReturnInternalServerError() throws Exception {
+        when(profilingService.dumpContinuous()).thenThrow(new IOException("Disk full"));
+
+        WebEndpointResponse<Response> response = profilingEndpoint.control("dump", null);
+
+        assertEquals(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR, response.getStatus());
+        assertEquals("Disk full", response.getBody().getMessage());
+    }
+
+    @Test
+    void control_UnknownAction_ShouldReturnBadRequest() {
+        WebEndpointResponse<Response> response = profilingEndpoint.control("restart", null);
+
+        assertEquals(WebEndpointResponse.STATUS_BAD_REQUEST, response.getStatus());
+        assertEquals("Unknown profiling action: restart", response.getBody().getMessage());
+        verifyNoInteractions(profilingService);
+    }
+
+    @Test
+    void report_WithoutReport_ShouldReturnNotFound() {
+        when(profilingService.lastReport()).thenReturn(null);
+
+        WebEndpointResponse<Response> response = profilingEndpoint.report("report");
+
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, response.getStatus());
+    }
+
+    @Test
+    void report_WithUnknownSelector_ShouldReturnNotFound() {
+        WebEndpointResponse<Response> response = profilingEndpoint.report("other");
+
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, response.getStatus());
+        verifyNoInteractions(profilingService);
+    }
+
+    @Test
+    void report_WithReport_ShouldReturnIt() {
+        ProfilingReport report = new ProfilingReport();
+        when(profilingService.lastReport()).thenReturn(report);
+
+        WebEndpointResponse<Response> response = profilingEndpoint.report("report");
+
+        assertEquals(WebEndpointResponse.STATUS_OK, response.getStatus());
+        assertSame(report, response.getBody().getObject());
+    }
+}
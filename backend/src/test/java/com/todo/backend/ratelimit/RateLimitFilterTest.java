@@ -0,0 +1,155 @@
+package com.todo.backend.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todo.backend.v1.ratelimit.RateLimitFilter;
+import com.todo.backend.v1.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+    private static final String KNOWN_KEY = "known-key";
+
+    private RateLimiter rateLimiter;
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new RateLimiter(2, Duration.ofMinutes(1), 1, Duration.ofMinutes(1), Duration.ofMinutes(10),
+                100, new SimpleMeterRegistry());
+        rateLimitFilter = createFilter(true);
+    }
+
+    @Test
+    void doFilter_WithinBudget_ShouldPassThroughWithRateLimitHeaders() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        rateLimitFilter.doFilter(request("GET", "/v1/tasks", "10.0.0.1"), response, chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+        assertEquals("2", response.getHeader("X-RateLimit-Limit"));
+        assertEquals("1", response.getHeader("X-RateLimit-Remaining"));
+        assertEquals("30", response.getHeader("X-RateLimit-Reset"));
+        assertNull(response.getHeader("Retry-After"));
+        assertEquals("X-RateLimit-Limit, X-RateLimit-Remaining, X-RateLimit-Reset, Retry-After",
+                response.getHeader("Access-Control-Expose-Headers"));
+    }
+
+    @Test
+    void doFilter_OverReadBudget_ShouldRejectWithTooManyRequests() throws Exception {
+        send("GET", "/v1/tasks", "10.0.0.1");
+        send("GET", "/v1/tasks", "10.0.0.1");
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        rateLimitFilter.doFilter(request("GET", "/v1/tasks", "10.0.0.1"), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(429, response.getStatus());
+        assertEquals("0", response.getHeader("X-RateLimit-Remaining"));
+        assertEquals("30", response.getHeader("Retry-After"));
+        assertEquals("*", response.getHeader("Access-Control-Allow-Origin"));
+        assertTrue(response.getHeader("Access-Control-Expose-Headers").contains("Retry-After"));
+        assertTrue(response.getContentAsString().contains("Too many requests"));
+    }
+
+    @Test
+    void doFilter_ShouldKeepSeparateReadAndWriteBudgets() throws Exception {
+        assertEquals(200, send("POST", "/v1/tasks", "10.0.0.1").getStatus());
+        assertEquals(429, send("PUT", "/v1/tasks/1", "10.0.0.1").getStatus());
+        assertEquals(429, send("DELETE", "/v1/tasks/1", "10.0.0.1").getStatus());
+
+        MockHttpServletResponse read = send("GET", "/v1/tasks", "10.0.0.1");
+        assertEquals(200, read.getStatus());
+        assertEquals("2", read.getHeader("X-RateLimit-Limit"));
+    }
+
+    @Test
+    void doFilter_WithDifferentRemoteAddresses_ShouldUseSeparateBuckets() throws Exception {
+        assertEquals(200, send("POST", "/v1/tasks", "10.0.0.1").getStatus());
+        assertEquals(200, send("POST", "/v1/tasks", "10.0.0.2").getStatus());
+    }
+
+    @Test
+    void doFilter_WithUnknownApiKeys_ShouldStillLimitByRemoteAddress() throws Exception {
+        MockHttpServletRequest first = request("POST", "/v1/tasks", "10.0.0.1");
+        first.addHeader("X-API-Key", UUID.randomUUID().toString());
+        MockHttpServletRequest second = request("POST", "/v1/tasks", "10.0.0.1");
+        second.addHeader("X-API-Key", UUID.randomUUID().toString());
+
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(first, firstResponse, new MockFilterChain());
+        MockHttpServletResponse secondResponse = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(second, secondResponse, new MockFilterChain());
+
+        assertEquals(200, firstResponse.getStatus());
+        assertEquals(429, secondResponse.getStatus());
+    }
+
+    @Test
+    void doFilter_WithKnownApiKey_ShouldUseTheKeyAsIdentity() throws Exception {
+        assertEquals(200, send("POST", "/v1/tasks", "10.0.0.1").getStatus());
+
+        MockHttpServletRequest keyed = request("POST", "/v1/tasks", "10.0.0.1");
+        keyed.addHeader("X-API-Key", KNOWN_KEY);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(keyed, response, new MockFilterChain());
+
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void doFilter_WithOptionsRequest_ShouldNotBeLimited() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletResponse response = send("OPTIONS", "/v1/tasks", "10.0.0.1");
+            assertEquals(200, response.getStatus());
+            assertNull(response.getHeader("X-RateLimit-Limit"));
+        }
+    }
+
+    @Test
+    void doFilter_OutsideTaskApi_ShouldNotBeLimited() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletResponse response = send("POST", "/v2/other", "10.0.0.1");
+            assertEquals(200, response.getStatus());
+            assertNull(response.getHeader("X-RateLimit-Limit"));
+        }
+    }
+
+    @Test
+    void doFilter_WhenDisabled_ShouldNotBeLimited() throws Exception {
+        rateLimitFilter = createFilter(false);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, send("POST", "/v1/tasks", "10.0.0.1").getStatus());
+        }
+    }
+
+    private RateLimitFilter createFilter(boolean enabled) {
+        return new RateLimitFilter(rateLimiter, new ObjectMapper(), enabled, "X-API-Key", Set.of(KNOWN_KEY));
+    }
+
+    private MockHttpServletResponse send(String method, String path, String remoteAddr) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request(method, path, remoteAddr), response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
@@ -0,0 +1,122 @@
+package com.todo.backend.ratelimit;
+
+import com.todo.backend.v1.ratelimit.RateLimiter;
+import com.todo.backend.v1.ratelimit.TokenBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void constructor_WithNonPositiveCapacity_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(
+                0, Duration.ofMinutes(1), 1, Duration.ofMinutes(1), Duration.ofMinutes(10), 100, meterRegistry));
+    }
+
+    @Test
+    void constructor_WithPeriodTooShortForCapacity_ShouldThrowIllegalArgumentException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new RateLimiter(
+                1, Duration.ofMinutes(1), 1000, Duration.ofNanos(1), Duration.ofMinutes(10), 100, meterRegistry));
+
+        assertEquals("Rate limit write period is too short for its capacity", exception.getMessage());
+    }
+
+    @Test
+    void tryConsume_ShouldKeepSeparateReadAndWriteBudgetsPerClient() {
+        RateLimiter rateLimiter = new RateLimiter(
+                2, Duration.ofMinutes(1), 1, Duration.ofMinutes(1), Duration.ofMinutes(10), 100, meterRegistry);
+
+        assertTrue(rateLimiter.tryConsume("ip:1.1.1.1", true).allowed());
+        assertFalse(rateLimiter.tryConsume("ip:1.1.1.1", true).allowed());
+        assertTrue(rateLimiter.tryConsume("ip:1.1.1.1", false).allowed());
+        assertTrue(rateLimiter.tryConsume("ip:2.2.2.2", true).allowed());
+    }
+
+    @Test
+    void tryConsume_ShouldRecordRequestAndPerClientThrottleMetrics() {
+        RateLimiter rateLimiter = new RateLimiter(
+                1, Duration.ofMinutes(1), 1, Duration.ofMinutes(1), Duration.ofMinutes(10), 100, meterRegistry);
+
+        rateLimiter.tryConsume("ip:1.1.1.1", false);
+        rateLimiter.tryConsume("ip:1.1.1.1", false);
+        rateLimiter.tryConsume("ip:1.1.1.1", false);
+
+        assertEquals(1.0, meterRegistry.get("ratelimit.requests")
+                .tag("type", "read").tag("outcome", "allowed").counter().count());
+        assertEquals(2.0, meterRegistry.get("ratelimit.requests")
+                .tag("type", "read").tag("outcome", "rejected").counter().count());
+        assertEquals(2.0, meterRegistry.get("ratelimit.throttled")
+                .tag("type", "read").tag("client", "ip:1.1.1.1").counter().count());
+        assertEquals(1, meterRegistry.find("ratelimit.throttled").counters().size());
+        assertEquals(1.0, meterRegistry.get("ratelimit.buckets").tag("type", "read").gauge().value());
+    }
+
+    @Test
+    void constructor_WithNonPositiveMaxBuckets_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(
+                1, Duration.ofMinutes(1), 1, Duration.ofMinutes(1), Duration.ofMinutes(10), 0, meterRegistry));
+    }
+
+    @Test
+    void tryConsume_PastMaxBuckets_ShouldShareOverflowBucketAndThrottleSeries() {
+        RateLimiter rateLimiter = new RateLimiter(
+                2, Duration.ofMinutes(1), 1, Duration.ofMinutes(1), Duration.ofMinutes(10), 2, meterRegistry);
+        rateLimiter.tryConsume("ip:1.1.1.1", false);
+        rateLimiter.tryConsume("ip:2.2.2.2", false);
+
+        assertTrue(rateLimiter.tryConsume("ip:3.3.3.3", false).allowed());
+        assertTrue(rateLimiter.tryConsume("ip:4.4.4.4", false).allowed());
+        assertFalse(rateLimiter.tryConsume("ip:5.5.5.5", false).allowed());
+        assertFalse(rateLimiter.tryConsume("ip:6.6.6.6", false).allowed());
+
+        assertTrue(rateLimiter.tryConsume("ip:1.1.1.1", false).allowed());
+        assertEquals(3.0, meterRegistry.get("ratelimit.buckets").tag("type", "read").gauge().value());
+        assertEquals(1, meterRegistry.find("ratelimit.throttled").counters().size());
+        assertEquals(2.0, meterRegistry.get("ratelimit.throttled")
+                .tag("type", "read").tag("client", "overflow").counter().count());
+        assertEquals(2.0, meterRegistry.get("ratelimit.requests")
+                .tag("type", "read").tag("outcome", "rejected").counter().count());
+    }
+
+    @Test
+    void evictIdleBuckets_ShouldRemoveIdleBucketsAndTheirThrottleMetrics() throws InterruptedException {
+        RateLimiter rateLimiter = new RateLimiter(
+                1, Duration.ofMillis(10), 1, Duration.ofMillis(10), Duration.ZERO, 100, meterRegistry);
+        rateLimiter.tryConsume("ip:1.1.1.1", false);
+        rateLimiter.tryConsume("ip:1.1.1.1", false);
+        assertNotNull(meterRegistry.find("ratelimit.throttled").tag("client", "ip:1.1.1.1").counter());
+
+        Thread.sleep(50);
+        rateLimiter.evictIdleBuckets();
+
+        assertEquals(0.0, meterRegistry.get("ratelimit.buckets").tag("type", "read").gauge().value());
+        assertNull(meterRegistry.find("ratelimit.throttled").counter());
+    }
+
+    @Test
+    void evictIdleBuckets_ShouldKeepBucketsThatAreNotIdle() {
+        RateLimiter rateLimiter = new RateLimiter(
+                1, Duration.ofMinutes(1), 1, Duration.ofMinutes(1), Duration.ofMinutes(10), 100, meterRegistry);
+        rateLimiter.tryConsume("ip:1.1.1.1", true);
+        rateLimiter.tryConsume("ip:1.1.1.1", true);
+
+        rateLimiter.evictIdleBuckets();
+
+        assertEquals(1.0, meterRegistry.get("ratelimit.buckets").tag("type", "write").gauge().value());
+        assertNotNull(meterRegistry.find("ratelimit.throttled").tag("client", "ip:1.1.1.1").counter());
+        TokenBucket.Probe probe = rateLimiter.tryConsume("ip:1.1.1.1", true);
+        assertFalse(probe.allowed());
+    }
+}
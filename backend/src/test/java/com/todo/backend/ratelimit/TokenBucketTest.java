@@ -0,0 +1,95 @@
+package com.todo.backend.ratelimit;
+
+import com.todo.backend.v1.ratelimit.TokenBucket;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+    private static final long NANOS_PER_TOKEN = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void tryConsume_WithinCapacity_ShouldAllowAndCountDownRemaining() {
+        TokenBucket bucket = new TokenBucket(3, NANOS_PER_TOKEN, 0);
+
+        TokenBucket.Probe first = bucket.tryConsume(0);
+        assertTrue(first.allowed());
+        assertEquals(3, first.limit());
+        assertEquals(2, first.remaining());
+
+        assertEquals(1, bucket.tryConsume(0).remaining());
+
+        TokenBucket.Probe third = bucket.tryConsume(0);
+        assertTrue(third.allowed());
+        assertEquals(0, third.remaining());
+        assertEquals(3 * NANOS_PER_TOKEN, third.resetNanos());
+    }
+
+    @Test
+    void tryConsume_OverCapacity_ShouldRejectWithRetryAfter() {
+        TokenBucket bucket = new TokenBucket(2, NANOS_PER_TOKEN, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        TokenBucket.Probe rejected = bucket.tryConsume(0);
+
+        assertFalse(rejected.allowed());
+        assertEquals(0, rejected.remaining());
+        assertEquals(NANOS_PER_TOKEN, rejected.retryAfterNanos());
+    }
+
+    @Test
+    void tryConsume_AfterRefillPeriod_ShouldAllowAgain() {
+        TokenBucket bucket = new TokenBucket(2, NANOS_PER_TOKEN, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+        assertFalse(bucket.tryConsume(0).allowed());
+
+        assertTrue(bucket.tryConsume(NANOS_PER_TOKEN).allowed());
+        assertFalse(bucket.tryConsume(NANOS_PER_TOKEN).allowed());
+
+        TokenBucket.Probe refilled = bucket.tryConsume(10 * NANOS_PER_TOKEN);
+        assertTrue(refilled.allowed());
+        assertEquals(1, refilled.remaining());
+    }
+
+    @Test
+    void isIdle_ShouldOnlyBeTrueOnceFullAndUntouchedForIdleTimeout() {
+        TokenBucket bucket = new TokenBucket(2, NANOS_PER_TOKEN, 0);
+        bucket.tryConsume(0);
+
+        assertFalse(bucket.isIdle(NANOS_PER_TOKEN, NANOS_PER_TOKEN));
+        assertTrue(bucket.isIdle(3 * NANOS_PER_TOKEN, NANOS_PER_TOKEN));
+    }
+
+    @Test
+    void tryConsume_FromManyThreads_ShouldNeverAllowMoreThanCapacity() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(100, TimeUnit.HOURS.toNanos(1), 0);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 50; j++) {
+                    if (bucket.tryConsume(0).allowed()) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(100, allowed.get());
+    }
+}